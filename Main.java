@@ -1,7 +1,17 @@
 import java.io.*;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.InputMismatchException;
-import java.util.Scanner;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Food item ordered by a customer
@@ -32,33 +42,302 @@ class Food implements Serializable {
     public float getPrice() { return price; }
 }
 
+/**
+ * Off-heap store for guest details. Each record is the owning handle, a length-prefixed
+ * UTF-8 name, a length-prefixed UTF-8 contact number and a dictionary code for the gender.
+ * Once the gender dictionary is full, further genders are stored inline as a length-prefixed
+ * string after the INLINE_GENDER code. Rooms keep only an int handle and decode fields when
+ * a bill or search needs them.
+ */
+class GuestArena {
+    static final int NO_RECORD = -1;
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final int MAX_GENDER_CODES = 16;
+    private static final int INLINE_GENDER = -1;
+    private static final GuestArena shared = new GuestArena(INITIAL_CAPACITY);
+    
+    private ByteBuffer buffer;
+    private int usedBytes;
+    private int deadBytes;
+    private final byte[] scratch = new byte[4096];
+    
+    // Handle table: handle -> record offset, released handles are reused
+    private int[] offsets = new int[256];
+    private int handleCount;
+    private int[] freeHandles = new int[256];
+    private int freeCount;
+    
+    // Gender dictionary, capped because genders are free text from the console
+    private final ArrayList<String> genders = new ArrayList<>();
+    private final HashMap<String, Integer> genderCodes = new HashMap<>();
+    
+    GuestArena(int capacity) {
+        this.buffer = ByteBuffer.allocateDirect(capacity);
+    }
+    
+    static GuestArena shared() {
+        return shared;
+    }
+    
+    /**
+     * Store a guest record and return its handle
+     */
+    synchronized int store(String name, String contact, String gender) {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        byte[] contactBytes = contact.getBytes(StandardCharsets.UTF_8);
+        int genderCode = genderCode(gender);
+        byte[] genderBytes = genderCode == INLINE_GENDER ? gender.getBytes(StandardCharsets.UTF_8) : null;
+        long recordLength = 16L + nameBytes.length + contactBytes.length
+            + (genderBytes == null ? 0 : 4 + genderBytes.length);
+        ensureCapacity(recordLength);
+        
+        int handle = freeCount > 0 ? freeHandles[--freeCount] : newHandle();
+        int offset = usedBytes;
+        buffer.position(offset);
+        buffer.putInt(handle)
+              .putInt(nameBytes.length).put(nameBytes)
+              .putInt(contactBytes.length).put(contactBytes)
+              .putInt(genderCode);
+        if (genderBytes != null) {
+            buffer.putInt(genderBytes.length).put(genderBytes);
+        }
+        usedBytes += (int) recordLength;
+        
+        offsets[handle] = offset;
+        return handle;
+    }
+    
+    synchronized String getName(int handle) {
+        if (handle == NO_RECORD) {
+            return "";
+        }
+        return readString(offsets[handle] + 4);
+    }
+    
+    synchronized String getContact(int handle) {
+        if (handle == NO_RECORD) {
+            return "";
+        }
+        return readString(contactOffset(offsets[handle]));
+    }
+    
+    synchronized String getGender(int handle) {
+        if (handle == NO_RECORD) {
+            return "";
+        }
+        int genderOffset = genderOffset(offsets[handle]);
+        int code = buffer.getInt(genderOffset);
+        return code == INLINE_GENDER ? readString(genderOffset + 4) : genders.get(code);
+    }
+    
+    /**
+     * Free a record; its space is reclaimed by the next compaction
+     */
+    synchronized void release(int handle) {
+        if (handle == NO_RECORD) {
+            return;
+        }
+        int offset = offsets[handle];
+        deadBytes += recordLength(offset);
+        buffer.putInt(offset, NO_RECORD);
+        offsets[handle] = NO_RECORD;
+        if (freeCount == freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, freeCount * 2);
+        }
+        freeHandles[freeCount++] = handle;
+    }
+    
+    synchronized int getLiveRecords() { return handleCount - freeCount; }
+    synchronized int getUsedBytes() { return usedBytes - deadBytes; }
+    synchronized int getCapacity() { return buffer.capacity(); }
+    
+    private int contactOffset(int offset) {
+        return offset + 8 + buffer.getInt(offset + 4);
+    }
+    
+    private int genderOffset(int offset) {
+        int contactOffset = contactOffset(offset);
+        return contactOffset + 4 + buffer.getInt(contactOffset);
+    }
+    
+    private int recordLength(int offset) {
+        int genderOffset = genderOffset(offset);
+        int length = genderOffset + 4 - offset;
+        if (buffer.getInt(genderOffset) == INLINE_GENDER) {
+            length += 4 + buffer.getInt(genderOffset + 4);
+        }
+        return length;
+    }
+    
+    private String readString(int offset) {
+        byte[] bytes = new byte[buffer.getInt(offset)];
+        buffer.position(offset + 4);
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Dictionary code for a gender, or INLINE_GENDER once the dictionary is full
+     */
+    private int genderCode(String gender) {
+        Integer code = genderCodes.get(gender);
+        if (code == null) {
+            if (genders.size() == MAX_GENDER_CODES) {
+                return INLINE_GENDER;
+            }
+            code = genders.size();
+            genders.add(gender);
+            genderCodes.put(gender, code);
+        }
+        return code;
+    }
+    
+    private int newHandle() {
+        if (handleCount == offsets.length) {
+            offsets = Arrays.copyOf(offsets, handleCount * 2);
+        }
+        return handleCount++;
+    }
+    
+    /**
+     * Make room for a record by compacting live records. The buffer is compacted in place
+     * while at least half of it stays free, otherwise it doubles up to MAX_CAPACITY.
+     */
+    private void ensureCapacity(long recordLength) {
+        if (usedBytes + recordLength <= buffer.capacity()) {
+            return;
+        }
+        
+        long needed = (long) usedBytes - deadBytes + recordLength;
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalStateException("Guest arena is full: " + needed + " bytes needed, limit is " + MAX_CAPACITY);
+        }
+        
+        long capacity = buffer.capacity();
+        while (needed > capacity / 2 && capacity < MAX_CAPACITY) {
+            capacity = Math.min(capacity * 2, MAX_CAPACITY);
+        }
+        
+        if (capacity == buffer.capacity()) {
+            compactInto(buffer);
+        } else {
+            ByteBuffer target = ByteBuffer.allocateDirect((int) capacity);
+            compactInto(target);
+            buffer = target;
+        }
+    }
+    
+    /**
+     * Copy live records, in offset order, to the start of target (which may be the current buffer)
+     */
+    private void compactInto(ByteBuffer target) {
+        int read = 0;
+        int write = 0;
+        while (read < usedBytes) {
+            int length = recordLength(read);
+            int handle = buffer.getInt(read);
+            if (handle != NO_RECORD) {
+                // Forward chunked copy never overwrites unread data since write <= read
+                for (int done = 0; done < length; done += scratch.length) {
+                    int chunk = Math.min(scratch.length, length - done);
+                    buffer.position(read + done);
+                    buffer.get(scratch, 0, chunk);
+                    target.position(write + done);
+                    target.put(scratch, 0, chunk);
+                }
+                offsets[handle] = write;
+                write += length;
+            }
+            read += length;
+        }
+        usedBytes = write;
+        deadBytes = 0;
+    }
+}
+
 /**
  * Base class for single room occupancy
  */
 class SingleRoom implements Serializable {
     private static final long serialVersionUID = 1L;
     
-    protected String guestName;
-    protected String contactNumber;
-    protected String gender;
-    protected ArrayList<Food> foodOrders = new ArrayList<>();
+    // Serialized form keeps the original String fields so existing backups still load
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("guestName", String.class),
+        new ObjectStreamField("contactNumber", String.class),
+        new ObjectStreamField("gender", String.class),
+        new ObjectStreamField("foodOrders", ArrayList.class)
+    };
+    
+    // Guest details live off-heap in GuestArena
+    protected transient int guestHandle;
+    protected transient ArrayList<Food> foodOrders = new ArrayList<>();
+    
+    // Details read from a backup, kept until HotelData has fully loaded
+    private transient String[] loadedGuest;
     
     public SingleRoom() {
-        this.guestName = "";
-        this.contactNumber = "";
-        this.gender = "";
+        this.guestHandle = GuestArena.NO_RECORD;
     }
     
     public SingleRoom(String guestName, String contactNumber, String gender) {
-        this.guestName = guestName;
-        this.contactNumber = contactNumber;
-        this.gender = gender;
+        this.guestHandle = GuestArena.shared().store(guestName, contactNumber, gender);
     }
     
-    public String getGuestName() { return guestName; }
-    public String getContactNumber() { return contactNumber; }
-    public String getGender() { return gender; }
+    public String getGuestName() {
+        return loadedGuest != null ? loadedGuest[0] : GuestArena.shared().getName(guestHandle);
+    }
+    public String getContactNumber() {
+        return loadedGuest != null ? loadedGuest[1] : GuestArena.shared().getContact(guestHandle);
+    }
+    public String getGender() {
+        return loadedGuest != null ? loadedGuest[2] : GuestArena.shared().getGender(guestHandle);
+    }
     public ArrayList<Food> getFoodOrders() { return foodOrders; }
+    
+    /**
+     * Move details read from a backup into the arena
+     */
+    void storeGuestRecords() {
+        if (loadedGuest != null) {
+            guestHandle = GuestArena.shared().store(loadedGuest[0], loadedGuest[1], loadedGuest[2]);
+            loadedGuest = null;
+        }
+    }
+    
+    /**
+     * Free the guest records once the room is vacated; getters return "" afterwards
+     */
+    void releaseGuestRecords() {
+        GuestArena.shared().release(guestHandle);
+        guestHandle = GuestArena.NO_RECORD;
+        loadedGuest = null;
+    }
+    
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("guestName", getGuestName());
+        fields.put("contactNumber", getContactNumber());
+        fields.put("gender", getGender());
+        fields.put("foodOrders", foodOrders);
+        out.writeFields();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        guestHandle = GuestArena.NO_RECORD;
+        loadedGuest = new String[] {
+            (String) fields.get("guestName", ""),
+            (String) fields.get("contactNumber", ""),
+            (String) fields.get("gender", "")
+        };
+        foodOrders = (ArrayList<Food>) fields.get("foodOrders", null);
+        if (foodOrders == null) {
+            foodOrders = new ArrayList<>();
+        }
+    }
 }
 
 /**
@@ -67,28 +346,71 @@ class SingleRoom implements Serializable {
 class DoubleRoom extends SingleRoom implements Serializable {
     private static final long serialVersionUID = 1L;
     
-    private String secondGuestName;
-    private String secondGuestContact;
-    private String secondGuestGender;
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("secondGuestName", String.class),
+        new ObjectStreamField("secondGuestContact", String.class),
+        new ObjectStreamField("secondGuestGender", String.class)
+    };
+    
+    private transient int secondGuestHandle;
+    private transient String[] loadedSecondGuest;
     
     public DoubleRoom() {
         super();
-        this.secondGuestName = "";
-        this.secondGuestContact = "";
-        this.secondGuestGender = "";
+        this.secondGuestHandle = GuestArena.NO_RECORD;
     }
     
     public DoubleRoom(String guestName, String contactNumber, String gender,
                      String secondGuestName, String secondGuestContact, String secondGuestGender) {
         super(guestName, contactNumber, gender);
-        this.secondGuestName = secondGuestName;
-        this.secondGuestContact = secondGuestContact;
-        this.secondGuestGender = secondGuestGender;
+        this.secondGuestHandle = GuestArena.shared().store(secondGuestName, secondGuestContact, secondGuestGender);
+    }
+    
+    public String getSecondGuestName() {
+        return loadedSecondGuest != null ? loadedSecondGuest[0] : GuestArena.shared().getName(secondGuestHandle);
+    }
+    public String getSecondGuestContact() {
+        return loadedSecondGuest != null ? loadedSecondGuest[1] : GuestArena.shared().getContact(secondGuestHandle);
+    }
+    public String getSecondGuestGender() {
+        return loadedSecondGuest != null ? loadedSecondGuest[2] : GuestArena.shared().getGender(secondGuestHandle);
+    }
+    
+    @Override
+    void storeGuestRecords() {
+        super.storeGuestRecords();
+        if (loadedSecondGuest != null) {
+            secondGuestHandle = GuestArena.shared().store(
+                loadedSecondGuest[0], loadedSecondGuest[1], loadedSecondGuest[2]);
+            loadedSecondGuest = null;
+        }
+    }
+    
+    @Override
+    void releaseGuestRecords() {
+        super.releaseGuestRecords();
+        GuestArena.shared().release(secondGuestHandle);
+        secondGuestHandle = GuestArena.NO_RECORD;
+        loadedSecondGuest = null;
     }
     
-    public String getSecondGuestName() { return secondGuestName; }
-    public String getSecondGuestContact() { return secondGuestContact; }
-    public String getSecondGuestGender() { return secondGuestGender; }
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("secondGuestName", getSecondGuestName());
+        fields.put("secondGuestContact", getSecondGuestContact());
+        fields.put("secondGuestGender", getSecondGuestGender());
+        out.writeFields();
+    }
+    
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        secondGuestHandle = GuestArena.NO_RECORD;
+        loadedSecondGuest = new String[] {
+            (String) fields.get("secondGuestName", ""),
+            (String) fields.get("secondGuestContact", ""),
+            (String) fields.get("secondGuestGender", "")
+        };
+    }
 }
 
 /**
@@ -115,16 +437,59 @@ class HotelData implements Serializable {
     public static final int DELUXE_SINGLE_ROOMS = 20;
     
     // Room arrays
-    private DoubleRoom[] luxuryDoubleRooms = new DoubleRoom[LUXURY_DOUBLE_ROOMS];
-    private DoubleRoom[] deluxeDoubleRooms = new DoubleRoom[DELUXE_DOUBLE_ROOMS];
-    private SingleRoom[] luxurySingleRooms = new SingleRoom[LUXURY_SINGLE_ROOMS];
-    private SingleRoom[] deluxeSingleRooms = new SingleRoom[DELUXE_SINGLE_ROOMS];
+    private DoubleRoom[] luxuryDoubleRooms;
+    private DoubleRoom[] deluxeDoubleRooms;
+    private SingleRoom[] luxurySingleRooms;
+    private SingleRoom[] deluxeSingleRooms;
+    
+    public HotelData() {
+        this(1);
+    }
+    
+    /**
+     * Hotel with every room category multiplied by scale (used by the workload simulator)
+     */
+    public HotelData(int scale) {
+        this.luxuryDoubleRooms = new DoubleRoom[LUXURY_DOUBLE_ROOMS * scale];
+        this.deluxeDoubleRooms = new DoubleRoom[DELUXE_DOUBLE_ROOMS * scale];
+        this.luxurySingleRooms = new SingleRoom[LUXURY_SINGLE_ROOMS * scale];
+        this.deluxeSingleRooms = new SingleRoom[DELUXE_SINGLE_ROOMS * scale];
+    }
     
     // Getters
     public DoubleRoom[] getLuxuryDoubleRooms() { return luxuryDoubleRooms; }
     public DoubleRoom[] getDeluxeDoubleRooms() { return deluxeDoubleRooms; }
     public SingleRoom[] getLuxurySingleRooms() { return luxurySingleRooms; }
     public SingleRoom[] getDeluxeSingleRooms() { return deluxeSingleRooms; }
+    
+    /**
+     * Free the off-heap guest records of every room before this data is discarded
+     */
+    synchronized void releaseGuestRecords() {
+        for (SingleRoom[] rooms : allRooms()) {
+            for (SingleRoom room : rooms) {
+                if (room != null) {
+                    room.releaseGuestRecords();
+                }
+            }
+        }
+    }
+    
+    private SingleRoom[][] allRooms() {
+        return new SingleRoom[][] {luxuryDoubleRooms, deluxeDoubleRooms, luxurySingleRooms, deluxeSingleRooms};
+    }
+    
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        // Guest details enter the arena only once every room has loaded, so a failed load leaks nothing
+        for (SingleRoom[] rooms : allRooms()) {
+            for (SingleRoom room : rooms) {
+                if (room != null) {
+                    room.storeGuestRecords();
+                }
+            }
+        }
+    }
 }
 
 /**
@@ -132,21 +497,162 @@ class HotelData implements Serializable {
  */
 class Hotel {
     static HotelData hotelData = new HotelData();
-    private static final Scanner scanner = new Scanner(System.in);
-    private static final String[] FOOD_ITEMS = {"Sandwich", "Pasta", "Noodles", "Coke"};
+    private static final ConsoleInput input = ConsoleInput.stdin();
+    static final String[] FOOD_ITEMS = {"Sandwich", "Pasta", "Noodles", "Coke"};
+    private static final int KITCHEN_RING_SIZE = 1024;
+    
+    // Results of addFoodOrder
+    static final int ORDER_PLACED = 0;
+    static final int ORDER_ROOM_EMPTY = 1;
+    static final int ORDER_KITCHEN_BUSY = 2;
+    static final int ORDER_INVALID_ITEM = 3;
+    static final KitchenDispatcher kitchen =
+        new KitchenDispatcher(new KitchenOrderRing(KITCHEN_RING_SIZE), FOOD_ITEMS.length);
+    
+    /**
+     * Switch to new hotel data, freeing the guest records of the data it replaces
+     */
+    static void replaceHotelData(HotelData data) {
+        HotelData previous = hotelData;
+        hotelData = data;
+        previous.releaseGuestRecords();
+    }
+    
+    /**
+     * Get the room array for a room type, or null for an invalid type
+     */
+    static SingleRoom[] getRooms(int roomType) {
+        switch (roomType) {
+            case 1: return hotelData.getLuxuryDoubleRooms();
+            case 2: return hotelData.getDeluxeDoubleRooms();
+            case 3: return hotelData.getLuxurySingleRooms();
+            case 4: return hotelData.getDeluxeSingleRooms();
+            default: return null;
+        }
+    }
+    
+    /**
+     * Get the per-day charge for a room type
+     */
+    static double getRoomCharge(int roomType) {
+        switch (roomType) {
+            case 1: return 4000;
+            case 2: return 3000;
+            case 3: return 2200;
+            case 4: return 1200;
+            default: return 0;
+        }
+    }
+    
+    /**
+     * Assign a guest to a room; returns false if the room is already occupied
+     */
+    static boolean allocateRoom(int roomType, int roomIndex, SingleRoom guest) {
+        synchronized (hotelData) {
+            SingleRoom[] rooms = getRooms(roomType);
+            if (rooms[roomIndex] != null) {
+                guest.releaseGuestRecords();
+                return false;
+            }
+            rooms[roomIndex] = guest;
+            return true;
+        }
+    }
+    
+    /**
+     * Send a food order to the kitchen and add it to the room's bill; returns ORDER_PLACED,
+     * ORDER_ROOM_EMPTY, ORDER_INVALID_ITEM for an item not on the menu, or ORDER_KITCHEN_BUSY
+     * when the kitchen is too far behind to accept it
+     */
+    static int addFoodOrder(int roomType, int roomIndex, Food food) {
+        if (food.getItemNo() < 1 || food.getItemNo() > FOOD_ITEMS.length) {
+            return ORDER_INVALID_ITEM;
+        }
+        
+        // Reserve the kitchen slot before taking the hotel lock and publish it after releasing it
+        KitchenOrderRing orders = kitchen.getOrders();
+        long slot = orders.claim();
+        if (slot < 0) {
+            return ORDER_KITCHEN_BUSY;
+        }
+        
+        boolean added = false;
+        try {
+            synchronized (hotelData) {
+                SingleRoom room = getRooms(roomType)[roomIndex];
+                if (room != null) {
+                    room.getFoodOrders().add(food);
+                    added = true;
+                }
+            }
+        } finally {
+            if (added) {
+                orders.publish(slot, food.getItemNo(), food.getQuantity());
+            } else {
+                orders.publish(slot, KitchenOrderRing.CANCELLED, 0);
+            }
+        }
+        return added ? ORDER_PLACED : ORDER_ROOM_EMPTY;
+    }
+    
+    /**
+     * Calculate the current bill of a room without printing it; returns -1 if the room is empty
+     */
+    static double calculateBill(int roomType, int roomIndex) {
+        synchronized (hotelData) {
+            SingleRoom room = getRooms(roomType)[roomIndex];
+            if (room == null) {
+                return -1;
+            }
+            double totalAmount = getRoomCharge(roomType);
+            for (Food food : room.getFoodOrders()) {
+                totalAmount += food.getPrice();
+            }
+            return totalAmount;
+        }
+    }
+    
+    /**
+     * Calculate the bill and vacate the room under one lock; returns the total, or -1 if the room was already empty
+     */
+    static double checkout(int roomType, int roomIndex) {
+        synchronized (hotelData) {
+            double totalAmount = calculateBill(roomType, roomIndex);
+            if (totalAmount >= 0) {
+                releaseRoom(roomType, roomIndex);
+            }
+            return totalAmount;
+        }
+    }
+    
+    /**
+     * Remove the guest from a room; returns false if it was already empty
+     */
+    static boolean releaseRoom(int roomType, int roomIndex) {
+        synchronized (hotelData) {
+            SingleRoom[] rooms = getRooms(roomType);
+            SingleRoom guest = rooms[roomIndex];
+            if (guest == null) {
+                return false;
+            }
+            rooms[roomIndex] = null;
+            guest.releaseGuestRecords();
+            return true;
+        }
+    }
     
     /**
      * Collect customer details for room booking
      */
     private static void collectCustomerDetails(int roomType, int roomIndex) {
         System.out.print("\nEnter customer name: ");
-        String name = scanner.next().trim();
+        String name = input.next().trim();
         
         System.out.print("Enter contact number: ");
-        String contact = scanner.next().trim();
+        String contact = input.next().trim();
         
         System.out.print("Enter gender: ");
-        String gender = scanner.next().trim();
+        String gender = input.next().trim();
         
         // Validate inputs
         if (name.isEmpty() || contact.isEmpty() || gender.isEmpty()) {
@@ -154,41 +660,30 @@ class Hotel {
             return;
         }
         
+        SingleRoom guest;
+        
         // Double room requires second guest details
         if (roomType < 3) {
             System.out.print("Enter second customer name: ");
-            String name2 = scanner.next().trim();
+            String name2 = input.next().trim();
             System.out.print("Enter contact number: ");
-            String contact2 = scanner.next().trim();
+            String contact2 = input.next().trim();
             System.out.print("Enter gender: ");
-            String gender2 = scanner.next().trim();
+            String gender2 = input.next().trim();
             
             if (name2.isEmpty() || contact2.isEmpty() || gender2.isEmpty()) {
                 System.out.println("Invalid input. All fields are required.");
                 return;
             }
             
-            switch (roomType) {
-                case 1:
-                    hotelData.getLuxuryDoubleRooms()[roomIndex] = 
-                        new DoubleRoom(name, contact, gender, name2, contact2, gender2);
-                    break;
-                case 2:
-                    hotelData.getDeluxeDoubleRooms()[roomIndex] = 
-                        new DoubleRoom(name, contact, gender, name2, contact2, gender2);
-                    break;
-            }
+            guest = new DoubleRoom(name, contact, gender, name2, contact2, gender2);
         } else {
-            switch (roomType) {
-                case 3:
-                    hotelData.getLuxurySingleRooms()[roomIndex] = 
-                        new SingleRoom(name, contact, gender);
-                    break;
-                case 4:
-                    hotelData.getDeluxeSingleRooms()[roomIndex] = 
-                        new SingleRoom(name, contact, gender);
-                    break;
-            }
+            guest = new SingleRoom(name, contact, gender);
+        }
+        
+        if (!allocateRoom(roomType, roomIndex, guest)) {
+            System.out.println(new RoomNotAvailableException());
+            return;
         }
         System.out.println("Room booked successfully!");
     }
@@ -207,6 +702,9 @@ class Hotel {
                     roomNumber = getValidRoomNumber(1, hotelData.getLuxuryDoubleRooms().length);
                     roomIndex = roomNumber - 1;
                     
+                    if (roomNumber < 0) {
+                        return;
+                    }
                     if (hotelData.getLuxuryDoubleRooms()[roomIndex] != null) {
                         throw new RoomNotAvailableException();
                     }
@@ -218,6 +716,9 @@ class Hotel {
                     roomNumber = getValidRoomNumber(11, 30);
                     roomIndex = roomNumber - 11;
                     
+                    if (roomNumber < 0) {
+                        return;
+                    }
                     if (hotelData.getDeluxeDoubleRooms()[roomIndex] != null) {
                         throw new RoomNotAvailableException();
                     }
@@ -229,6 +730,9 @@ class Hotel {
                     roomNumber = getValidRoomNumber(31, 40);
                     roomIndex = roomNumber - 31;
                     
+                    if (roomNumber < 0) {
+                        return;
+                    }
                     if (hotelData.getLuxurySingleRooms()[roomIndex] != null) {
                         throw new RoomNotAvailableException();
                     }
@@ -240,6 +744,9 @@ class Hotel {
                     roomNumber = getValidRoomNumber(41, 60);
                     roomIndex = roomNumber - 41;
                     
+                    if (roomNumber < 0) {
+                        return;
+                    }
                     if (hotelData.getDeluxeSingleRooms()[roomIndex] != null) {
                         throw new RoomNotAvailableException();
                     }
@@ -251,9 +758,6 @@ class Hotel {
             }
         } catch (RoomNotAvailableException e) {
             System.out.println(e);
-        } catch (InputMismatchException e) {
-            System.out.println("Invalid input. Please enter a number.");
-            scanner.next(); // Clear invalid input
         }
     }
     
@@ -271,21 +775,23 @@ class Hotel {
     }
     
     /**
-     * Get and validate room number input
+     * Get and validate room number input; returns -1 if the input has run out
      */
     private static int getValidRoomNumber(int min, int max) {
         while (true) {
-            try {
-                System.out.print("Enter room number (" + min + "-" + max + "): ");
-                int roomNumber = scanner.nextInt();
-                if (roomNumber >= min && roomNumber <= max) {
-                    return roomNumber;
+            System.out.print("Enter room number (" + min + "-" + max + "): ");
+            int roomNumber = input.nextInt();
+            if (!input.isValid()) {
+                if (input.isEof()) {
+                    return -1;
                 }
-                System.out.println("Room number must be between " + min + " and " + max);
-            } catch (InputMismatchException e) {
                 System.out.println("Invalid input. Please enter a number.");
-                scanner.next(); // Clear invalid input
+                continue;
+            }
+            if (roomNumber >= min && roomNumber <= max) {
+                return roomNumber;
             }
+            System.out.println("Room number must be between " + min + " and " + max);
         }
     }
     
@@ -320,27 +826,14 @@ class Hotel {
      */
     static void checkAvailability(int roomType) {
         int count = 0;
-        Object[] rooms = null;
+        SingleRoom[] rooms = getRooms(roomType);
         
-        switch (roomType) {
-            case 1:
-                rooms = hotelData.getLuxuryDoubleRooms();
-                break;
-            case 2:
-                rooms = hotelData.getDeluxeDoubleRooms();
-                break;
-            case 3:
-                rooms = hotelData.getLuxurySingleRooms();
-                break;
-            case 4:
-                rooms = hotelData.getDeluxeSingleRooms();
-                break;
-            default:
-                System.out.println("Invalid room type option");
-                return;
+        if (rooms == null) {
+            System.out.println("Invalid room type option");
+            return;
         }
         
-        for (Object room : rooms) {
+        for (SingleRoom room : rooms) {
             if (room == null) {
                 count++;
             }
@@ -352,48 +845,17 @@ class Hotel {
      * Generate and display bill
      */
     static void generateBill(int roomIndex, int roomType) {
-        double totalAmount = 0;
-        double roomCharge = 0;
-        Object room = null;
-        ArrayList<Food> foodOrders = null;
-        
-        switch (roomType) {
-            case 1:
-                roomCharge = 4000;
-                room = hotelData.getLuxuryDoubleRooms()[roomIndex];
-                if (room != null) {
-                    foodOrders = ((DoubleRoom) room).getFoodOrders();
-                }
-                break;
-            case 2:
-                roomCharge = 3000;
-                room = hotelData.getDeluxeDoubleRooms()[roomIndex];
-                if (room != null) {
-                    foodOrders = ((DoubleRoom) room).getFoodOrders();
-                }
-                break;
-            case 3:
-                roomCharge = 2200;
-                room = hotelData.getLuxurySingleRooms()[roomIndex];
-                if (room != null) {
-                    foodOrders = ((SingleRoom) room).getFoodOrders();
-                }
-                break;
-            case 4:
-                roomCharge = 1200;
-                room = hotelData.getDeluxeSingleRooms()[roomIndex];
-                if (room != null) {
-                    foodOrders = ((SingleRoom) room).getFoodOrders();
-                }
-                break;
-        }
+        SingleRoom[] rooms = getRooms(roomType);
+        SingleRoom room = rooms == null ? null : rooms[roomIndex];
         
         if (room == null) {
             System.out.println("Room is not occupied");
             return;
         }
         
-        totalAmount += roomCharge;
+        double roomCharge = getRoomCharge(roomType);
+        double totalAmount = roomCharge;
+        ArrayList<Food> foodOrders = room.getFoodOrders();
         
         System.out.println("\n===============");
         System.out.println("      BILL");
@@ -424,49 +886,25 @@ class Hotel {
      */
     static void checkoutRoom(int roomIndex, int roomType) {
         try {
-            String guestName = null;
-            Object[] rooms = null;
-            
-            switch (roomType) {
-                case 1:
-                    rooms = hotelData.getLuxuryDoubleRooms();
-                    if (rooms[roomIndex] != null) {
-                        guestName = ((DoubleRoom) rooms[roomIndex]).getGuestName();
-                    }
-                    break;
-                case 2:
-                    rooms = hotelData.getDeluxeDoubleRooms();
-                    if (rooms[roomIndex] != null) {
-                        guestName = ((DoubleRoom) rooms[roomIndex]).getGuestName();
-                    }
-                    break;
-                case 3:
-                    rooms = hotelData.getLuxurySingleRooms();
-                    if (rooms[roomIndex] != null) {
-                        guestName = ((SingleRoom) rooms[roomIndex]).getGuestName();
-                    }
-                    break;
-                case 4:
-                    rooms = hotelData.getDeluxeSingleRooms();
-                    if (rooms[roomIndex] != null) {
-                        guestName = ((SingleRoom) rooms[roomIndex]).getGuestName();
-                    }
-                    break;
-            }
+            SingleRoom room = getRooms(roomType)[roomIndex];
             
-            if (guestName == null) {
+            if (room == null) {
                 System.out.println("Room is already empty");
                 return;
             }
             
-            System.out.println("Room occupied by: " + guestName);
+            System.out.println("Room occupied by: " + room.getGuestName());
             System.out.print("Do you want to checkout? (y/n): ");
-            char wish = Character.toLowerCase(scanner.next().charAt(0));
+            char wish = input.nextChar();
             
             if (wish == 'y') {
-                generateBill(roomIndex, roomType);
-                rooms[roomIndex] = null;
-                System.out.println("Checkout successful! Room deallocated.");
+                // Hold the lock so the guest on the printed bill is the one checked out
+                synchronized (hotelData) {
+                    generateBill(roomIndex, roomType);
+                    if (checkout(roomType, roomIndex) >= 0) {
+                        System.out.println("Checkout successful! Room deallocated.");
+                    }
+                }
             }
             
         } catch (ArrayIndexOutOfBoundsException e) {
@@ -481,22 +919,7 @@ class Hotel {
      */
     static void orderFood(int roomIndex, int roomType) {
         try {
-            Object room = null;
-            
-            switch (roomType) {
-                case 1:
-                    room = hotelData.getLuxuryDoubleRooms()[roomIndex];
-                    break;
-                case 2:
-                    room = hotelData.getDeluxeDoubleRooms()[roomIndex];
-                    break;
-                case 3:
-                    room = hotelData.getLuxurySingleRooms()[roomIndex];
-                    break;
-                case 4:
-                    room = hotelData.getDeluxeSingleRooms()[roomIndex];
-                    break;
-            }
+            SingleRoom room = getRooms(roomType)[roomIndex];
             
             if (room == null) {
                 System.out.println("Room is not booked. Please book the room first.");
@@ -512,9 +935,14 @@ class Hotel {
             System.out.println("4. Coke      - ₹30");
             System.out.println("===========");
             
+            boolean placed = false;
             do {
                 System.out.print("Enter item number: ");
-                int itemNo = scanner.nextInt();
+                int itemNo = input.nextInt();
+                if (!input.isValid()) {
+                    System.out.println("Invalid input. Please enter numbers.");
+                    return;
+                }
                 
                 if (itemNo < 1 || itemNo > 4) {
                     System.out.println("Invalid item number. Please choose 1-4.");
@@ -522,59 +950,591 @@ class Hotel {
                 }
                 
                 System.out.print("Enter quantity: ");
-                int quantity = scanner.nextInt();
+                int quantity = input.nextInt();
+                if (!input.isValid()) {
+                    System.out.println("Invalid input. Please enter numbers.");
+                    return;
+                }
                 
                 if (quantity <= 0) {
                     System.out.println("Quantity must be positive.");
                     continue;
                 }
                 
-                Food food = new Food(itemNo, quantity);
-                
-                switch (roomType) {
-                    case 1:
-                    case 2:
-                        ((DoubleRoom) room).getFoodOrders().add(food);
-                        break;
-                    case 3:
-                    case 4:
-                        ((SingleRoom) room).getFoodOrders().add(food);
-                        break;
+                int status = addFoodOrder(roomType, roomIndex, new Food(itemNo, quantity));
+                if (status == ORDER_PLACED) {
+                    placed = true;
+                } else if (status == ORDER_KITCHEN_BUSY) {
+                    System.out.println("Kitchen is busy. Please try again shortly.");
+                } else if (status == ORDER_INVALID_ITEM) {
+                    System.out.println("Invalid item number. Please choose 1-4.");
+                } else {
+                    System.out.println("Room is not booked. Please book the room first.");
+                    break;
                 }
                 
                 System.out.print("Order more items? (y/n): ");
-            } while (Character.toLowerCase(scanner.next().charAt(0)) == 'y');
+            } while (input.nextChar() == 'y');
             
-            System.out.println("Order placed successfully!");
+            if (placed) {
+                System.out.println("Order placed successfully!");
+            } else {
+                System.out.println("No items were ordered.");
+            }
             
-        } catch (InputMismatchException e) {
-            System.out.println("Invalid input. Please enter numbers.");
-            scanner.next(); // Clear invalid input
         } catch (NullPointerException e) {
             System.out.println("Error placing order. Room not properly initialized.");
         }
     }
 }
 
+/**
+ * Kitchen screen that receives food orders grouped per menu item
+ */
+interface KitchenDisplay {
+    /**
+     * Called from the dispatcher thread; itemTotals[itemNo - 1] is the quantity of that item in the batch
+     */
+    void onBatch(int[] itemTotals, int orders);
+}
+
+/**
+ * Kitchen station that prints a ticket for each batch and spends a fixed preparation
+ * time per item before taking the next one, so a slow kitchen pushes back on the desks
+ */
+class KitchenStation implements KitchenDisplay {
+    private final String[] itemNames;
+    private final PrintStream tickets;
+    private final long nanosPerItem;
+    private final long[] prepared;
+    private long ticketCount;
+    
+    /**
+     * tickets may be null when no ticket printer is attached
+     */
+    KitchenStation(String[] itemNames, PrintStream tickets, long nanosPerItem) {
+        this.itemNames = itemNames;
+        this.tickets = tickets;
+        this.nanosPerItem = nanosPerItem;
+        this.prepared = new long[itemNames.length];
+    }
+    
+    @Override
+    public void onBatch(int[] itemTotals, int orders) {
+        ticketCount++;
+        if (tickets != null) {
+            tickets.print("Ticket " + ticketCount + " (" + orders + " orders):");
+        }
+        
+        long items = 0;
+        for (int i = 0; i < itemTotals.length; i++) {
+            if (itemTotals[i] > 0) {
+                prepared[i] += itemTotals[i];
+                items += itemTotals[i];
+                if (tickets != null) {
+                    tickets.print(" " + itemTotals[i] + " x " + itemNames[i]);
+                }
+            }
+        }
+        if (tickets != null) {
+            tickets.println();
+        }
+        
+        // Cook the batch before accepting the next one
+        long deadline = System.nanoTime() + items * nanosPerItem;
+        for (long now = System.nanoTime(); now < deadline; now = System.nanoTime()) {
+            LockSupport.parkNanos(deadline - now);
+        }
+    }
+    
+    // Read only after the dispatcher has stopped
+    long getTickets() { return ticketCount; }
+    long getPrepared(int itemNo) { return prepared[itemNo - 1]; }
+}
+
+/**
+ * Bounded multi-producer, single-consumer ring buffer carrying food orders to the kitchen.
+ * Slots are preallocated; claim() and publish() never allocate or block, and claim() fails
+ * when the kitchen has fallen behind and the ring is full.
+ */
+class KitchenOrderRing {
+    // Item number published for a claimed slot whose order was withdrawn
+    static final int CANCELLED = 0;
+    
+    private final int capacity;
+    private final int mask;
+    
+    // Per-slot sequence: equals the claim position when free, position + 1 once published
+    private final AtomicLongArray sequences;
+    private final int[] itemNos;
+    private final int[] quantities;
+    private final long[] enqueuedAt;
+    
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private long head; // consumer only
+    
+    KitchenOrderRing(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        this.itemNos = new int[capacity];
+        this.quantities = new int[capacity];
+        this.enqueuedAt = new long[capacity];
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+    
+    /**
+     * Reserve the next slot; returns its position, or -1 without waiting if the ring is full.
+     * Every claimed slot must be published, since the consumer stops at the first unpublished one.
+     */
+    long claim() {
+        while (true) {
+            long position = tail.get();
+            long sequence = sequences.get((int) position & mask);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+            } else if (sequence < position) {
+                rejected.incrementAndGet();
+                return -1;
+            }
+        }
+    }
+    
+    /**
+     * Fill a claimed slot and hand it to the consumer
+     */
+    void publish(long position, int itemNo, int quantity) {
+        int index = (int) position & mask;
+        itemNos[index] = itemNo;
+        quantities[index] = quantity;
+        enqueuedAt[index] = System.nanoTime();
+        sequences.lazySet(index, position + 1);
+    }
+    
+    /**
+     * Copy up to max published orders, oldest first, without freeing their slots; consumer only
+     */
+    int peek(int[] itemNos, int[] quantities, long[] enqueuedAt, int max) {
+        int count = 0;
+        while (count < max) {
+            long position = head + count;
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            itemNos[count] = this.itemNos[index];
+            quantities[count] = this.quantities[index];
+            enqueuedAt[count] = this.enqueuedAt[index];
+            count++;
+        }
+        return count;
+    }
+    
+    /**
+     * Free the slots of the oldest count orders for producers; consumer only
+     */
+    void release(int count) {
+        for (int i = 0; i < count; i++) {
+            sequences.lazySet((int) head & mask, head + capacity);
+            head++;
+        }
+    }
+    
+    long getRejectedOrders() { return rejected.get(); }
+}
+
+/**
+ * Log-linear latency histogram in nanoseconds: every power of two is split into
+ * eight buckets, so percentiles are within 12.5%; record() never allocates.
+ * Written by a single thread and read once that thread has stopped.
+ */
+class LatencyHistogram {
+    private static final int SUB_BUCKETS = 8;
+    
+    private final long[] buckets = new long[SUB_BUCKETS * 62];
+    private long count;
+    private long maxNanos;
+    
+    void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[bucketOf(value)]++;
+        count++;
+        maxNanos = Math.max(maxNanos, value);
+    }
+    
+    /**
+     * Add the samples of another histogram to this one
+     */
+    void add(LatencyHistogram other) {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] += other.buckets[i];
+        }
+        count += other.count;
+        maxNanos = Math.max(maxNanos, other.maxNanos);
+    }
+    
+    /**
+     * Upper bound, in nanoseconds, of the bucket holding the given percentile
+     */
+    long percentileNanos(double fraction) {
+        long target = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int i = 0; i < buckets.length && count > 0; i++) {
+            seen += buckets[i];
+            if (seen >= target) {
+                return Math.min(upperBound(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+    
+    long getCount() { return count; }
+    long getMaxNanos() { return maxNanos; }
+    
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        // value >>> shift lies in [8, 16): the top four bits pick the bucket
+        int shift = 60 - Long.numberOfLeadingZeros(value);
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+    
+    private static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long top = index % SUB_BUCKETS + SUB_BUCKETS + 1;
+        return shift > 58 ? Long.MAX_VALUE : (top << shift) - 1;
+    }
+}
+
+/**
+ * Background thread that drains the kitchen ring in batches, totals each batch per
+ * menu item for the kitchen displays and records order fulfilment latency
+ */
+class KitchenDispatcher implements Runnable {
+    static final int BATCH_SIZE = 64;
+    private static final long IDLE_PARK_NANOS = 100000;
+    
+    private final KitchenOrderRing orders;
+    private final CopyOnWriteArrayList<KitchenDisplay> displays = new CopyOnWriteArrayList<>();
+    private final LatencyHistogram fulfilmentLatency = new LatencyHistogram();
+    
+    // Preallocated batch buffers
+    private final int[] itemNos = new int[BATCH_SIZE];
+    private final int[] quantities = new int[BATCH_SIZE];
+    private final long[] enqueuedAt = new long[BATCH_SIZE];
+    private final int[] itemTotals;
+    
+    private volatile boolean running;
+    private Thread thread;
+    private long batches;
+    
+    public KitchenDispatcher(KitchenOrderRing orders, int menuItems) {
+        this.orders = orders;
+        this.itemTotals = new int[menuItems];
+    }
+    
+    void addDisplay(KitchenDisplay display) {
+        displays.add(display);
+    }
+    
+    synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "kitchen-dispatcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    /**
+     * Stop after dispatching every order already in the ring
+     */
+    synchronized void stop() throws InterruptedException {
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        thread.join();
+        thread = null;
+    }
+    
+    @Override
+    public void run() {
+        while (running) {
+            if (dispatchBatch() == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        while (dispatchBatch() > 0) {
+            // Drain what was published before stop()
+        }
+    }
+    
+    private int dispatchBatch() {
+        int count = orders.peek(itemNos, quantities, enqueuedAt, BATCH_SIZE);
+        if (count == 0) {
+            return 0;
+        }
+        
+        Arrays.fill(itemTotals, 0);
+        int placed = 0;
+        for (int i = 0; i < count; i++) {
+            if (itemNos[i] != KitchenOrderRing.CANCELLED) {
+                itemTotals[itemNos[i] - 1] += quantities[i];
+                placed++;
+            }
+        }
+        if (placed > 0) {
+            for (KitchenDisplay display : displays) {
+                // A failing display must not stop the kitchen from draining the ring
+                try {
+                    display.onBatch(itemTotals, placed);
+                } catch (RuntimeException e) {
+                    System.err.println("Kitchen display error: " + e);
+                }
+            }
+            
+            // Orders count as fulfilled once the kitchen has taken them; only then free their slots
+            long now = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                if (itemNos[i] != KitchenOrderRing.CANCELLED) {
+                    fulfilmentLatency.record(now - enqueuedAt[i]);
+                }
+            }
+            batches++;
+        }
+        orders.release(count);
+        return count;
+    }
+    
+    KitchenOrderRing getOrders() { return orders; }
+    
+    // Read only after stop()
+    LatencyHistogram getFulfilmentLatency() { return fulfilmentLatency; }
+    long getBatches() { return batches; }
+}
+
 /**
  * Background thread for saving hotel data
  */
 class DataSaver implements Runnable {
     private final HotelData hotelData;
+    private final String fileName;
     
     public DataSaver(HotelData hotelData) {
+        this(hotelData, "hotel_backup.dat");
+    }
+    
+    public DataSaver(HotelData hotelData, String fileName) {
         this.hotelData = hotelData;
+        this.fileName = fileName;
     }
     
     @Override
     public void run() {
-        try (FileOutputStream fileOut = new FileOutputStream("hotel_backup.dat");
-             ObjectOutputStream objectOut = new ObjectOutputStream(fileOut)) {
-            objectOut.writeObject(hotelData);
+        try {
+            write(snapshot());
         } catch (IOException e) {
             System.err.println("Error saving hotel data: " + e.getMessage());
         }
     }
+    
+    /**
+     * Serialize the hotel in memory; the data lock is held only for this step
+     */
+    byte[] snapshot() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOut = new ObjectOutputStream(bytes)) {
+            synchronized (hotelData) {
+                objectOut.writeObject(hotelData);
+            }
+        }
+        return bytes.toByteArray();
+    }
+    
+    /**
+     * Write a snapshot to the backup file and force it to disk
+     */
+    void write(byte[] snapshot) throws IOException {
+        try (FileOutputStream fileOut = new FileOutputStream(fileName)) {
+            fileOut.write(snapshot);
+            fileOut.getFD().sync();
+        }
+    }
+}
+
+/**
+ * Buffered whitespace tokenizer shared by every console prompt. Numbers and
+ * answers are parsed straight from the byte buffer without regex or per-token
+ * allocation; bad tokens are consumed and reported through isValid() instead
+ * of exceptions. Only words that are kept, like names, become Strings.
+ */
+class ConsoleInput {
+    private static final ConsoleInput stdin = new ConsoleInput(System.in);
+    
+    private final InputStream in;
+    private final byte[] buffer = new byte[64 * 1024];
+    private int position;
+    private int limit;
+    private boolean eof;
+    private boolean valid;
+    private byte[] word = new byte[64];
+    
+    ConsoleInput(InputStream in) {
+        this.in = in;
+    }
+    
+    static ConsoleInput stdin() {
+        return stdin;
+    }
+    
+    /**
+     * Whether the last read found a well-formed token
+     */
+    boolean isValid() { return valid; }
+    
+    /**
+     * Whether the input has run out
+     */
+    boolean isEof() { return eof && position == limit; }
+    
+    /**
+     * Read the next token as an int; returns 0 and clears isValid() if it is not a number
+     */
+    int nextInt() {
+        int b = skipWhitespace();
+        if (b == -1) {
+            valid = false;
+            return 0;
+        }
+        
+        boolean negative = b == '-';
+        if (negative || b == '+') {
+            b = read();
+        }
+        
+        long value = 0;
+        boolean wellFormed = b > ' ';
+        while (b > ' ') {
+            if (b >= '0' && b <= '9' && value <= Integer.MAX_VALUE + 1L) {
+                value = value * 10 + (b - '0');
+            } else {
+                wellFormed = false;
+            }
+            b = read();
+        }
+        
+        if (negative) {
+            value = -value;
+        }
+        valid = wellFormed && value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+        return valid ? (int) value : 0;
+    }
+    
+    /**
+     * Read the next token as a String; returns "" at end of input
+     */
+    String next() {
+        int b = skipWhitespace();
+        if (b == -1) {
+            valid = false;
+            return "";
+        }
+        
+        int length = 0;
+        while (b > ' ') {
+            if (length == word.length) {
+                word = Arrays.copyOf(word, length * 2);
+            }
+            word[length++] = (byte) b;
+            b = read();
+        }
+        valid = true;
+        return new String(word, 0, length, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Read the next token and return its first character in lower case; returns '\0' at end of input
+     */
+    char nextChar() {
+        int b = skipWhitespace();
+        valid = b != -1;
+        int first = b;
+        while (b > ' ') {
+            b = read();
+        }
+        return valid ? Character.toLowerCase((char) first) : '\0';
+    }
+    
+    /**
+     * Read the next token and check whether it equals expected, ignoring case
+     */
+    boolean nextIs(String expected) {
+        int b = skipWhitespace();
+        valid = b != -1;
+        boolean matches = valid;
+        int length = 0;
+        while (b > ' ') {
+            if (length >= expected.length()
+                    || Character.toLowerCase((char) b) != Character.toLowerCase(expected.charAt(length))) {
+                matches = false;
+            }
+            length++;
+            b = read();
+        }
+        return matches && length == expected.length();
+    }
+    
+    private int skipWhitespace() {
+        int b;
+        do {
+            b = read();
+        } while (b != -1 && b <= ' ');
+        return b;
+    }
+    
+    private int read() {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++] & 0xFF;
+    }
+    
+    private boolean fill() {
+        if (eof) {
+            return false;
+        }
+        try {
+            int count;
+            do {
+                count = in.read(buffer, 0, buffer.length);
+            } while (count == 0);
+            if (count < 0) {
+                eof = true;
+                return false;
+            }
+            position = 0;
+            limit = count;
+            return true;
+        } catch (IOException e) {
+            // Treat an unreadable stream as end of input
+            eof = true;
+            return false;
+        }
+    }
 }
 
 /**
@@ -585,8 +1545,11 @@ public class HotelManagementSystem {
     public static void main(String[] args) {
         // Load existing data
         loadHotelData();
+        Hotel.kitchen.addDisplay(openKitchenStation());
+        Hotel.kitchen.start();
         
-        Scanner scanner = new Scanner(System.in);
+        // Shared with Hotel so no buffered input is lost between prompts
+        ConsoleInput input = ConsoleInput.stdin();
         int choice, roomType;
         
         try {
@@ -594,57 +1557,57 @@ public class HotelManagementSystem {
             while (true) {
                 displayMainMenu();
                 
-                try {
-                    choice = scanner.nextInt();
-                    
-                    switch (choice) {
-                        case 1: // Display room details
-                            displayRoomTypeMenu("Display Features");
-                            roomType = scanner.nextInt();
-                            Hotel.displayFeatures(roomType);
-                            break;
-                            
-                        case 2: // Display room availability
-                            displayRoomTypeMenu("Check Availability");
-                            roomType = scanner.nextInt();
-                            Hotel.checkAvailability(roomType);
-                            break;
-                            
-                        case 3: // Book room
-                            displayRoomTypeMenu("Book Room");
-                            roomType = scanner.nextInt();
-                            Hotel.bookRoom(roomType);
-                            break;
-                            
-                        case 4: // Order food
-                            System.out.print("Enter Room Number: ");
-                            int roomNumber = scanner.nextInt();
-                            processRoomAction(roomNumber, false);
-                            break;
-                            
-                        case 5: // Checkout
-                            System.out.print("Enter Room Number: ");
-                            roomNumber = scanner.nextInt();
-                            processRoomAction(roomNumber, true);
-                            break;
-                            
-                        case 6: // Exit
-                            System.out.println("Thank you for using Hotel Management System!");
-                            break mainLoop;
-                            
-                        default:
-                            System.out.println("Invalid option. Please choose 1-6.");
+                choice = input.nextInt();
+                if (!input.isValid()) {
+                    if (input.isEof()) {
+                        break;
                     }
-                    
-                } catch (InputMismatchException e) {
                     System.out.println("Invalid input. Please enter a number.");
-                    scanner.next(); // Clear invalid input
                     continue;
                 }
                 
+                // Invalid room type or number tokens read as 0 and are rejected by the range checks
+                switch (choice) {
+                    case 1: // Display room details
+                        displayRoomTypeMenu("Display Features");
+                        roomType = input.nextInt();
+                        Hotel.displayFeatures(roomType);
+                        break;
+                        
+                    case 2: // Display room availability
+                        displayRoomTypeMenu("Check Availability");
+                        roomType = input.nextInt();
+                        Hotel.checkAvailability(roomType);
+                        break;
+                        
+                    case 3: // Book room
+                        displayRoomTypeMenu("Book Room");
+                        roomType = input.nextInt();
+                        Hotel.bookRoom(roomType);
+                        break;
+                        
+                    case 4: // Order food
+                        System.out.print("Enter Room Number: ");
+                        int roomNumber = input.nextInt();
+                        processRoomAction(roomNumber, false);
+                        break;
+                        
+                    case 5: // Checkout
+                        System.out.print("Enter Room Number: ");
+                        roomNumber = input.nextInt();
+                        processRoomAction(roomNumber, true);
+                        break;
+                        
+                    case 6: // Exit
+                        System.out.println("Thank you for using Hotel Management System!");
+                        break mainLoop;
+                        
+                    default:
+                        System.out.println("Invalid option. Please choose 1-6.");
+                }
+                
                 System.out.print("\nContinue? (y/n): ");
-                String continueChoice = scanner.next().toLowerCase();
-                if (!continueChoice.equals("y")) {
+                if (!input.nextIs("y")) {
                     break;
                 }
             }
@@ -655,8 +1618,19 @@ public class HotelManagementSystem {
             
         } catch (Exception e) {
             System.err.println("An unexpected error occurred: " + e.getMessage());
-        } finally {
-            scanner.close();
+        }
+    }
+    
+    /**
+     * Kitchen station that appends its tickets to kitchen_tickets.txt
+     */
+    private static KitchenStation openKitchenStation() {
+        try {
+            PrintStream tickets = new PrintStream(new FileOutputStream("kitchen_tickets.txt", true), true);
+            return new KitchenStation(Hotel.FOOD_ITEMS, tickets, 0);
+        } catch (FileNotFoundException e) {
+            System.out.println("Kitchen tickets unavailable: " + e.getMessage());
+            return new KitchenStation(Hotel.FOOD_ITEMS, null, 0);
         }
     }
     
@@ -668,7 +1642,7 @@ public class HotelManagementSystem {
         if (backupFile.exists()) {
             try (FileInputStream fileIn = new FileInputStream(backupFile);
                  ObjectInputStream objectIn = new ObjectInputStream(fileIn)) {
-                Hotel.hotelData = (HotelData) objectIn.readObject();
+                Hotel.replaceHotelData((HotelData) objectIn.readObject());
                 System.out.println("Previous hotel data loaded successfully.");
             } catch (IOException | ClassNotFoundException e) {
                 System.out.println("No previous data found. Starting fresh.");
@@ -737,4 +1711,412 @@ public class HotelManagementSystem {
             Hotel.orderFood(roomIndex, roomType);
         }
     }
-}
\ No newline at end of file
+}
+
+/**
+ * Seeded load generator that drives Hotel operations from concurrent front desk clients
+ * and reports throughput, latency percentiles, GC pauses and persistence lag.
+ * Usage: java WorkloadSimulator [scenario] [clients] [operationsPerClient] [seed] [scale]
+ */
+class WorkloadSimulator {
+    private static final int ARRIVAL = 0;
+    private static final int FOOD_ORDER = 1;
+    private static final int INTERIM_BILL = 2;
+    private static final int CHECKOUT = 3;
+    
+    // Operation outcomes: done, missed (room in the wrong state) or refused by a busy kitchen
+    private static final int DONE = 0;
+    private static final int MISSED = 1;
+    private static final int BUSY = 2;
+    private static final String[] OPERATION_NAMES = {"Arrival", "Food order", "Interim bill", "Checkout"};
+    private static final String[] GENDERS = {"Male", "Female", "Other"};
+    private static final long SAVE_INTERVAL_MS = 200;
+    // Simulated kitchen preparation time per item
+    private static final long PREP_NANOS_PER_ITEM = 2000;
+    // Largest multiplier for the 60-room layout (6 million rooms)
+    private static final int MAX_SCALE = 100000;
+    
+    /**
+     * Named traffic mixes: starting occupancy and relative weights of
+     * arrivals, food orders, interim bills and checkouts
+     */
+    enum Scenario {
+        CONFERENCE_CHECKIN_RUSH("conference-checkin-rush", 0.05, 70, 15, 5, 10),
+        CHECKOUT_MORNING("checkout-morning", 0.95, 5, 10, 35, 50),
+        BREAKFAST_PEAK("breakfast-peak", 0.85, 5, 75, 10, 10),
+        STEADY_DAY("steady-day", 0.5, 25, 40, 10, 25);
+        
+        final String label;
+        final double initialOccupancy;
+        final int[] weights;
+        final int totalWeight;
+        
+        Scenario(String label, double initialOccupancy, int... weights) {
+            this.label = label;
+            this.initialOccupancy = initialOccupancy;
+            this.weights = weights;
+            int total = 0;
+            for (int weight : weights) {
+                total += weight;
+            }
+            this.totalWeight = total;
+        }
+        
+        int pickOperation(Random random) {
+            int roll = random.nextInt(totalWeight);
+            for (int operation = 0; operation < weights.length; operation++) {
+                roll -= weights[operation];
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            return weights.length - 1;
+        }
+        
+        static Scenario fromLabel(String label) {
+            for (Scenario scenario : values()) {
+                if (scenario.label.equalsIgnoreCase(label)) {
+                    return scenario;
+                }
+            }
+            return null;
+        }
+    }
+    
+    /**
+     * One front desk issuing a seeded stream of operations against the shared hotel
+     */
+    private static class Client implements Runnable {
+        private final Scenario scenario;
+        private final Random random;
+        private final int operations;
+        private final CountDownLatch startSignal;
+        
+        final LatencyHistogram[] latencies = new LatencyHistogram[OPERATION_NAMES.length];
+        final int[] completed = new int[OPERATION_NAMES.length];
+        final int[] missed = new int[OPERATION_NAMES.length];
+        final int[] busy = new int[OPERATION_NAMES.length];
+        
+        Client(Scenario scenario, long seed, int operations, CountDownLatch startSignal) {
+            this.scenario = scenario;
+            this.random = new Random(seed);
+            this.operations = operations;
+            this.startSignal = startSignal;
+            for (int operation = 0; operation < latencies.length; operation++) {
+                latencies[operation] = new LatencyHistogram();
+            }
+        }
+        
+        @Override
+        public void run() {
+            try {
+                startSignal.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            
+            for (int i = 0; i < operations; i++) {
+                int operation = scenario.pickOperation(random);
+                int roomType = 1 + random.nextInt(4);
+                int roomIndex = random.nextInt(Hotel.getRooms(roomType).length);
+                
+                // Build request payloads outside the timed section, like a desk filling in a form
+                SingleRoom guest = operation == ARRIVAL ? newGuest(random, roomType) : null;
+                Food food = operation == FOOD_ORDER
+                    ? new Food(1 + random.nextInt(4), 1 + random.nextInt(3)) : null;
+                
+                long start = System.nanoTime();
+                int outcome = perform(operation, roomType, roomIndex, guest, food);
+                latencies[operation].record(System.nanoTime() - start);
+                if (outcome == DONE) {
+                    completed[operation]++;
+                } else if (outcome == BUSY) {
+                    busy[operation]++;
+                } else {
+                    missed[operation]++;
+                }
+            }
+        }
+        
+        private static int perform(int operation, int roomType, int roomIndex, SingleRoom guest, Food food) {
+            switch (operation) {
+                case ARRIVAL:
+                    return Hotel.allocateRoom(roomType, roomIndex, guest) ? DONE : MISSED;
+                case FOOD_ORDER:
+                    int status = Hotel.addFoodOrder(roomType, roomIndex, food);
+                    if (status == Hotel.ORDER_KITCHEN_BUSY) {
+                        return BUSY;
+                    }
+                    return status == Hotel.ORDER_PLACED ? DONE : MISSED;
+                case INTERIM_BILL:
+                    return Hotel.calculateBill(roomType, roomIndex) >= 0 ? DONE : MISSED;
+                case CHECKOUT:
+                    return Hotel.checkout(roomType, roomIndex) >= 0 ? DONE : MISSED;
+                default:
+                    return MISSED;
+            }
+        }
+    }
+    
+    /**
+     * Periodically saves the hotel with DataSaver, timing the locked snapshot
+     * and the lag from snapshot until the file is on disk
+     */
+    private static class PersistenceMonitor implements Runnable {
+        private final String fileName;
+        
+        long saves;
+        long totalSnapshotNanos;
+        long maxSnapshotNanos;
+        long totalLagNanos;
+        long maxLagNanos;
+        
+        PersistenceMonitor(String fileName) {
+            this.fileName = fileName;
+        }
+        
+        @Override
+        public void run() {
+            DataSaver saver = new DataSaver(Hotel.hotelData, fileName);
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    long start = System.nanoTime();
+                    byte[] snapshot = saver.snapshot();
+                    long taken = System.nanoTime();
+                    saver.write(snapshot);
+                    long durable = System.nanoTime();
+                    
+                    saves++;
+                    totalSnapshotNanos += taken - start;
+                    maxSnapshotNanos = Math.max(maxSnapshotNanos, taken - start);
+                    totalLagNanos += durable - taken;
+                    maxLagNanos = Math.max(maxLagNanos, durable - taken);
+                } catch (IOException e) {
+                    System.err.println("Error saving hotel data: " + e.getMessage());
+                    return;
+                }
+                
+                try {
+                    Thread.sleep(SAVE_INTERVAL_MS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+    
+    public static void main(String[] args) {
+        Scenario scenario = Scenario.STEADY_DAY;
+        int clients = 4;
+        int operationsPerClient = 100000;
+        long seed = 42;
+        int scale = 1;
+        
+        try {
+            if (args.length > 0) {
+                scenario = Scenario.fromLabel(args[0]);
+            }
+            if (args.length > 1) {
+                clients = Integer.parseInt(args[1]);
+            }
+            if (args.length > 2) {
+                operationsPerClient = Integer.parseInt(args[2]);
+            }
+            if (args.length > 3) {
+                seed = Long.parseLong(args[3]);
+            }
+            if (args.length > 4) {
+                scale = Integer.parseInt(args[4]);
+            }
+        } catch (NumberFormatException e) {
+            scenario = null;
+        }
+        
+        if (scenario == null || clients < 1 || operationsPerClient < 1 || scale < 1 || scale > MAX_SCALE) {
+            printUsage();
+            return;
+        }
+        
+        try {
+            run(scenario, clients, operationsPerClient, seed, scale);
+        } catch (IOException e) {
+            System.err.println("Error preparing simulation backup file: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Simulation interrupted");
+        }
+    }
+    
+    /**
+     * Run one scenario and print the report
+     */
+    static void run(Scenario scenario, int clients, int operationsPerClient, long seed, int scale)
+            throws IOException, InterruptedException {
+        Hotel.replaceHotelData(new HotelData(scale));
+        int occupied = prefill(scenario, seed);
+        
+        File backupFile = File.createTempFile("hotel_simulation", ".dat");
+        backupFile.deleteOnExit();
+        
+        CountDownLatch startSignal = new CountDownLatch(1);
+        Client[] desks = new Client[clients];
+        Thread[] threads = new Thread[clients];
+        for (int i = 0; i < clients; i++) {
+            desks[i] = new Client(scenario, seed * 31 + i + 1, operationsPerClient, startSignal);
+            threads[i] = new Thread(desks[i], "desk-" + (i + 1));
+            threads[i].start();
+        }
+        
+        PersistenceMonitor monitor = new PersistenceMonitor(backupFile.getPath());
+        Thread monitorThread = new Thread(monitor, "persistence-monitor");
+        
+        KitchenStation station = new KitchenStation(Hotel.FOOD_ITEMS, null, PREP_NANOS_PER_ITEM);
+        Hotel.kitchen.addDisplay(station);
+        
+        long[] gcBefore = gcTotals();
+        long start = System.nanoTime();
+        Hotel.kitchen.start();
+        monitorThread.start();
+        startSignal.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - start;
+        monitorThread.interrupt();
+        monitorThread.join();
+        Hotel.kitchen.stop();
+        long[] gcAfter = gcTotals();
+        
+        backupFile.delete();
+        
+        int rooms = 0;
+        for (int roomType = 1; roomType <= 4; roomType++) {
+            rooms += Hotel.getRooms(roomType).length;
+        }
+        long totalOperations = (long) clients * operationsPerClient;
+        
+        System.out.println("\n=========================");
+        System.out.println("   WORKLOAD SIMULATION");
+        System.out.println("=========================");
+        System.out.println("Scenario: " + scenario.label + " (seed " + seed + ")");
+        System.out.println("Rooms: " + rooms + " (" + occupied + " occupied at start)");
+        System.out.println("Clients: " + clients + ", operations: " + totalOperations);
+        System.out.printf("Elapsed: %.3f s%n", elapsed / 1e9);
+        System.out.printf("Throughput: %.0f ops/s%n", totalOperations / (elapsed / 1e9));
+        System.out.println("-------------------------");
+        System.out.printf("%-14s %-10s %-10s %-10s %-10s %-10s %-10s %-10s %-10s%n",
+            "Operation", "Count", "Done", "Missed", "Busy", "p50(us)", "p99(us)", "p99.9(us)", "Max(us)");
+        
+        LatencyHistogram all = new LatencyHistogram();
+        for (int operation = 0; operation < OPERATION_NAMES.length; operation++) {
+            LatencyHistogram latency = new LatencyHistogram();
+            int[] outcomes = new int[3];
+            for (Client desk : desks) {
+                latency.add(desk.latencies[operation]);
+                outcomes[DONE] += desk.completed[operation];
+                outcomes[MISSED] += desk.missed[operation];
+                outcomes[BUSY] += desk.busy[operation];
+            }
+            printLatencyRow(OPERATION_NAMES[operation], outcomes, latency);
+            all.add(latency);
+        }
+        printLatencyRow("All", null, all);
+        
+        System.out.println("-------------------------");
+        System.out.printf("GC pauses: %d collections, %d ms total%n",
+            gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1]);
+        if (monitor.saves > 0) {
+            System.out.printf("Snapshots (hotel locked): %d saves, mean %.2f ms, max %.2f ms%n",
+                monitor.saves, monitor.totalSnapshotNanos / 1e6 / monitor.saves, monitor.maxSnapshotNanos / 1e6);
+            System.out.printf("Persistence lag (snapshot to disk): mean %.2f ms, max %.2f ms%n",
+                monitor.totalLagNanos / 1e6 / monitor.saves, monitor.maxLagNanos / 1e6);
+        }
+        LatencyHistogram kitchenLatency = Hotel.kitchen.getFulfilmentLatency();
+        System.out.printf("Kitchen: %d orders in %d batches, %d rejected (ring full)%n",
+            kitchenLatency.getCount(), Hotel.kitchen.getBatches(),
+            Hotel.kitchen.getOrders().getRejectedOrders());
+        System.out.printf("Kitchen fulfilment: p50 %.1f us, p99 %.1f us, max %.1f us%n",
+            kitchenLatency.percentileNanos(0.50) / 1e3, kitchenLatency.percentileNanos(0.99) / 1e3,
+            kitchenLatency.getMaxNanos() / 1e3);
+        System.out.print("Kitchen prepared (" + station.getTickets() + " tickets):");
+        for (int itemNo = 1; itemNo <= Hotel.FOOD_ITEMS.length; itemNo++) {
+            System.out.print(" " + station.getPrepared(itemNo) + " x " + Hotel.FOOD_ITEMS[itemNo - 1]);
+        }
+        System.out.println();
+        GuestArena arena = GuestArena.shared();
+        System.out.printf("Guest arena: %d records, %d KB used of %d KB off-heap%n",
+            arena.getLiveRecords(), arena.getUsedBytes() / 1024, arena.getCapacity() / 1024);
+    }
+    
+    /**
+     * Occupy rooms up to the scenario's starting occupancy; returns the number of occupied rooms
+     */
+    private static int prefill(Scenario scenario, long seed) {
+        Random random = new Random(seed);
+        int occupied = 0;
+        for (int roomType = 1; roomType <= 4; roomType++) {
+            SingleRoom[] rooms = Hotel.getRooms(roomType);
+            for (int i = 0; i < rooms.length; i++) {
+                if (random.nextDouble() < scenario.initialOccupancy) {
+                    Hotel.allocateRoom(roomType, i, newGuest(random, roomType));
+                    occupied++;
+                }
+            }
+        }
+        return occupied;
+    }
+    
+    private static SingleRoom newGuest(Random random, int roomType) {
+        String name = "Guest" + random.nextInt(1000000);
+        String contact = String.valueOf(9000000000L + random.nextInt(1000000000));
+        String gender = GENDERS[random.nextInt(GENDERS.length)];
+        
+        // Double rooms need a second guest
+        if (roomType < 3) {
+            return new DoubleRoom(name, contact, gender,
+                "Guest" + random.nextInt(1000000),
+                String.valueOf(9000000000L + random.nextInt(1000000000)),
+                GENDERS[random.nextInt(GENDERS.length)]);
+        }
+        return new SingleRoom(name, contact, gender);
+    }
+    
+    /**
+     * Print one report row; outcomes is indexed by DONE, MISSED and BUSY, or null for totals
+     */
+    private static void printLatencyRow(String label, int[] outcomes, LatencyHistogram latency) {
+        System.out.printf("%-14s %-10d %-10s %-10s %-10s %-10.1f %-10.1f %-10.1f %-10.1f%n",
+            label, latency.getCount(),
+            outcomes == null ? "-" : String.valueOf(outcomes[DONE]),
+            outcomes == null ? "-" : String.valueOf(outcomes[MISSED]),
+            outcomes == null ? "-" : String.valueOf(outcomes[BUSY]),
+            latency.percentileNanos(0.50) / 1e3,
+            latency.percentileNanos(0.99) / 1e3,
+            latency.percentileNanos(0.999) / 1e3,
+            latency.getMaxNanos() / 1e3);
+    }
+    
+    /**
+     * Total collection count and time across all garbage collectors
+     */
+    private static long[] gcTotals() {
+        long count = 0;
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return new long[] {count, time};
+    }
+    
+    private static void printUsage() {
+        System.out.println("Usage: java WorkloadSimulator [scenario] [clients] [operationsPerClient] [seed] [scale]");
+        System.out.println("Scale: 1-" + MAX_SCALE + " (1 = the regular 60-room hotel)");
+        System.out.print("Scenarios:");
+        for (Scenario scenario : Scenario.values()) {
+            System.out.print(" " + scenario.label);
+        }
+        System.out.println();
+    }
+}